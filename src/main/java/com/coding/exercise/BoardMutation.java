@@ -0,0 +1,110 @@
+package com.coding.exercise;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * An entry of the replication log: a mutation committed by a leader {@link ScoreBoard}.
+ * <p>The log records the effects of the operations rather than the operations themselves: besides starts, score
+ * updates and finishes, every match dropped by the leader (expired or evicted due to the retention cap) has its own
+ * entry. This way followers can reproduce the leader's board exactly, without running expiry on their own.
+ * <p>Every entry carries the match's teams, its start sequence and its score after the mutation. The timestamp is
+ * the start time assigned by the leader for {@link Type#START} entries, and the time of the mutation otherwise.
+ */
+public final class BoardMutation {
+
+    public enum Type {
+        START,
+        UPDATE_SCORE,
+        FINISH,
+        EXPIRE_LIVE,
+        EXPIRE_FINISHED
+    }
+
+    private final long version;
+    private final @NonNull Type type;
+    private final @NonNull String homeTeamName;
+    private final @NonNull String awayTeamName;
+    private final long startSequence;
+    private final @NonNull ImmutablePair<Integer, Integer> score;
+    private final long timestamp;
+
+    public BoardMutation(
+            final long version,
+            final @NonNull Type type,
+            final @NonNull String homeTeamName,
+            final @NonNull String awayTeamName,
+            final long startSequence,
+            final @NonNull ImmutablePair<Integer, Integer> score,
+            final long timestamp) {
+        this.version = version;
+        this.type = type;
+        this.homeTeamName = homeTeamName;
+        this.awayTeamName = awayTeamName;
+        this.startSequence = startSequence;
+        this.score = score;
+        this.timestamp = timestamp;
+    }
+
+    /** Returns the version of the leader board after this mutation. Versions are consecutive, starting from 1. */
+    public long getVersion() {
+        return version;
+    }
+
+    public @NonNull Type getType() {
+        return type;
+    }
+
+    public @NonNull String getHomeTeamName() {
+        return homeTeamName;
+    }
+
+    public @NonNull String getAwayTeamName() {
+        return awayTeamName;
+    }
+
+    public long getStartSequence() {
+        return startSequence;
+    }
+
+    public @NonNull ImmutablePair<Integer, Integer> getScore() {
+        return score;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /** Serialise the mutation, it can be read back with {@link #readFrom(DataInput)}. */
+    public void writeTo(final @NonNull DataOutput output) throws IOException {
+        output.writeLong(version);
+        output.writeUTF(type.name());
+        output.writeUTF(homeTeamName);
+        output.writeUTF(awayTeamName);
+        output.writeLong(startSequence);
+        output.writeInt(score.left);
+        output.writeInt(score.right);
+        output.writeLong(timestamp);
+    }
+
+    public static @NonNull BoardMutation readFrom(final @NonNull DataInput input) throws IOException {
+        long version = input.readLong();
+        Type type = Type.valueOf(input.readUTF());
+        String homeTeamName = input.readUTF();
+        String awayTeamName = input.readUTF();
+        long startSequence = input.readLong();
+        ImmutablePair<Integer, Integer> score = new ImmutablePair<>(input.readInt(), input.readInt());
+        long timestamp = input.readLong();
+        return new BoardMutation(version, type, homeTeamName, awayTeamName, startSequence, score, timestamp);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return version + " " + type + " " + homeTeamName + " " + score.left + " - " + awayTeamName + " " + score.right
+                + " @" + timestamp;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.coding.exercise;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link TimeSource} which returns a cached time, refreshed by a background ticker with the given resolution.
+ * <p>Reading the time is a single volatile read instead of a call to {@link System#currentTimeMillis()}, at the cost
+ * of the returned time lagging behind by up to the resolution. The returned time never goes backwards, even if the
+ * system clock does.
+ * <p>The ticker runs on a daemon thread, which is stopped by {@link #close()}.
+ */
+public class CoarseTimeSource implements TimeSource, Closeable {
+    private final @NonNull TimeSource underlyingTimeSource;
+    private final @NonNull ScheduledExecutorService ticker;
+    private volatile long currentTimeMillis;
+
+    public CoarseTimeSource(final @NonNull Duration resolution) {
+        this(resolution, TimeSource.system());
+    }
+
+    @VisibleForTesting
+    CoarseTimeSource(final @NonNull Duration resolution, final @NonNull TimeSource underlyingTimeSource) {
+        Preconditions.checkArgument(resolution.toMillis() > 0, "The resolution must be at least one millisecond");
+        this.underlyingTimeSource = underlyingTimeSource;
+        this.currentTimeMillis = underlyingTimeSource.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-time-source-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, resolution.toMillis(), resolution.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    @VisibleForTesting
+    void tick() {
+        // Only the ticker thread writes the field, so the read-modify-write does not need to be atomic
+        this.currentTimeMillis = Math.max(currentTimeMillis, underlyingTimeSource.currentTimeMillis());
+    }
+}
\ No newline at end of file
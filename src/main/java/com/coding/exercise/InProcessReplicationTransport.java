@@ -0,0 +1,85 @@
+package com.coding.exercise;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ReplicationTransport} which delivers the mutations synchronously to followers living in the same process.
+ * <p>As the delivery happens on the publishing thread, followers are up-to-date as soon as the leader's mutation
+ * returns. A follower throwing an exception is dropped, and every follower is dropped if the log breaks.
+ */
+public class InProcessReplicationTransport implements ReplicationTransport {
+    private final @NonNull ReplicationLog log;
+    private final @NonNull List<Subscription> subscriptions = new ArrayList<>();
+
+    public InProcessReplicationTransport() {
+        this(DEFAULT_LOG_CAPACITY);
+    }
+
+    public InProcessReplicationTransport(final int logCapacity) {
+        this.log = new ReplicationLog(logCapacity);
+    }
+
+    @Override
+    public synchronized void publish(final @NonNull BoardMutation mutation) {
+        try {
+            log.append(mutation);
+        } catch (IllegalStateException e) {
+            dropAll(e);
+            return;
+        }
+        for (Subscription subscription : new ArrayList<>(subscriptions)) {
+            deliver(subscription, List.of(mutation));
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(
+            final long fromVersion,
+            final @NonNull Consumer<BoardMutation> follower,
+            final @NonNull Consumer<Exception> failureHandler) {
+        List<BoardMutation> backlog = log.readFrom(fromVersion);
+        Subscription subscription = new Subscription(follower, failureHandler);
+        subscriptions.add(subscription);
+        deliver(subscription, backlog);
+    }
+
+    @Override
+    public synchronized void close() {
+        dropAll(new IllegalStateException("The replication transport has been closed"));
+    }
+
+    private void deliver(final @NonNull Subscription subscription, final @NonNull List<BoardMutation> mutations) {
+        try {
+            mutations.forEach(subscription.follower);
+        } catch (RuntimeException e) {
+            drop(subscription, e);
+        }
+    }
+
+    private void dropAll(final @NonNull Exception cause) {
+        for (Subscription subscription : new ArrayList<>(subscriptions)) {
+            drop(subscription, cause);
+        }
+    }
+
+    private void drop(final @NonNull Subscription subscription, final @NonNull Exception cause) {
+        subscriptions.remove(subscription);
+        subscription.failureHandler.accept(cause);
+    }
+
+    private static final class Subscription {
+        private final @NonNull Consumer<BoardMutation> follower;
+        private final @NonNull Consumer<Exception> failureHandler;
+
+        private Subscription(
+                final @NonNull Consumer<BoardMutation> follower,
+                final @NonNull Consumer<Exception> failureHandler) {
+            this.follower = follower;
+            this.failureHandler = failureHandler;
+        }
+    }
+}
\ No newline at end of file
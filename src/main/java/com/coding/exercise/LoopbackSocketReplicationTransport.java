@@ -0,0 +1,252 @@
+package com.coding.exercise;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ReplicationTransport} which ships the serialised mutations over loopback TCP connections.
+ * <p>Every subscriber gets its own connection, with a daemon thread writing the log to it and another one reading and
+ * applying it, so the delivery is asynchronous: use the minimum version reads of {@link ScoreBoard} to wait for a
+ * follower. Publishing only queues the mutation for the writer threads, so that a stalled follower cannot block the
+ * leader: a follower whose queue overflows, or which does not accept a write within the write timeout, is disconnected.
+ * <p>A follower whose connection fails, or which fails to apply a mutation, is disconnected as well; its failure
+ * handler is called from its reader thread. Every follower is disconnected if the log breaks.
+ */
+public class LoopbackSocketReplicationTransport implements ReplicationTransport {
+    public static final int DEFAULT_OUTBOUND_QUEUE_CAPACITY = 1_000;
+    public static final Duration DEFAULT_WRITE_TIMEOUT = Duration.ofSeconds(5);
+    private static final int ACCEPT_TIMEOUT_MILLIS = 10_000;
+    private final @NonNull ReplicationLog log;
+    private final @NonNull ServerSocket serverSocket;
+    private final @NonNull List<Connection> connections = new ArrayList<>();
+    private final int outboundQueueCapacity;
+    private final long writeTimeoutNanos;
+
+    public LoopbackSocketReplicationTransport() throws IOException {
+        this(DEFAULT_LOG_CAPACITY);
+    }
+
+    public LoopbackSocketReplicationTransport(final int logCapacity) throws IOException {
+        this(logCapacity, DEFAULT_OUTBOUND_QUEUE_CAPACITY, DEFAULT_WRITE_TIMEOUT);
+    }
+
+    public LoopbackSocketReplicationTransport(
+            final int logCapacity,
+            final int outboundQueueCapacity,
+            final @NonNull Duration writeTimeout) throws IOException {
+        Preconditions.checkArgument(outboundQueueCapacity > 0, "The capacity of the outbound queue must be positive");
+        Preconditions.checkArgument(!writeTimeout.isNegative() && !writeTimeout.isZero(),
+                "The write timeout must be positive");
+        this.log = new ReplicationLog(logCapacity);
+        this.outboundQueueCapacity = outboundQueueCapacity;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.serverSocket.setSoTimeout(ACCEPT_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    public synchronized void publish(final @NonNull BoardMutation mutation) {
+        try {
+            log.append(mutation);
+        } catch (IllegalStateException e) {
+            new ArrayList<>(connections).forEach(connection -> disconnect(connection, e));
+            return;
+        }
+        for (Connection connection : new ArrayList<>(connections)) {
+            if (connection.isWriteStalled(writeTimeoutNanos)) {
+                disconnect(connection, new SocketTimeoutException(
+                        "The follower did not accept the log within " + Duration.ofNanos(writeTimeoutNanos)));
+            } else if (!connection.outbound.offer(mutation)) {
+                disconnect(connection, new IllegalStateException(
+                        "The follower fell behind by more than " + outboundQueueCapacity + " mutations"));
+            }
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(
+            final long fromVersion,
+            final @NonNull Consumer<BoardMutation> follower,
+            final @NonNull Consumer<Exception> failureHandler) {
+        List<BoardMutation> backlog = log.readFrom(fromVersion);
+        Connection connection;
+        Socket followerSocket = null;
+        try {
+            followerSocket = new Socket(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+            connection = new Connection(accept(followerSocket), followerSocket, outboundQueueCapacity);
+        } catch (IOException e) {
+            closeQuietly(followerSocket);
+            throw new UncheckedIOException("Could not connect the follower", e);
+        }
+        connections.add(connection);
+        int port = followerSocket.getLocalPort();
+        // The backlog is handed to the writer rather than queued, so that it does not count towards the queue capacity
+        connection.writer = startDaemon(() -> writeLog(connection, backlog), "replication-writer-" + port);
+        startDaemon(() -> readLog(connection, follower, failureHandler), "replication-follower-" + port);
+    }
+
+    @VisibleForTesting
+    int getLocalPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @VisibleForTesting
+    synchronized int connectedFollowers() {
+        return connections.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IllegalStateException cause = new IllegalStateException("The replication transport has been closed");
+        new ArrayList<>(connections).forEach(connection -> disconnect(connection, cause));
+        serverSocket.close();
+    }
+
+    /**
+     * Accept the leader's end of the follower's connection. Any other process can connect to the port of the server
+     * socket as well, so the connections which do not come from the follower's socket are closed.
+     */
+    private @NonNull Socket accept(final @NonNull Socket followerSocket) throws IOException {
+        while (true) {
+            Socket socket = serverSocket.accept();
+            if (socket.getPort() == followerSocket.getLocalPort()) {
+                return socket;
+            }
+            closeQuietly(socket);
+        }
+    }
+
+    private static @NonNull Thread startDaemon(final @NonNull Runnable task, final @NonNull String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void writeLog(final @NonNull Connection connection, final @NonNull List<BoardMutation> backlog) {
+        try {
+            List<BoardMutation> mutations = new ArrayList<>(backlog);
+            while (true) {
+                connection.write(mutations);
+                mutations.clear();
+                mutations.add(connection.outbound.take());
+                connection.outbound.drainTo(mutations);
+            }
+        } catch (IOException e) {
+            // The reader thread notices the closed sockets and notifies the follower
+            connection.drop(e);
+        } catch (InterruptedException e) {
+            // The connection has been dropped
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void readLog(
+            final @NonNull Connection connection,
+            final @NonNull Consumer<BoardMutation> follower,
+            final @NonNull Consumer<Exception> failureHandler) {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(connection.followerSocket.getInputStream()))) {
+            while (true) {
+                follower.accept(BoardMutation.readFrom(input));
+            }
+        } catch (IOException | RuntimeException e) {
+            // The connection was closed, or the follower could not apply the log: either way it cannot continue
+            connection.drop(e);
+            synchronized (this) {
+                connections.remove(connection);
+            }
+            failureHandler.accept(connection.dropCause.get());
+        }
+    }
+
+    /**
+     * The reader thread of the connection notices the closed sockets and notifies the follower of the cause.
+     */
+    private void disconnect(final @NonNull Connection connection, final @NonNull Exception cause) {
+        connections.remove(connection);
+        connection.drop(cause);
+    }
+
+    private static void closeQuietly(final @Nullable Socket socket) {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException e) {
+            // Nothing else to do with a socket which is being dropped anyway
+        }
+    }
+
+    private static final class Connection {
+        private final @NonNull Socket leaderSocket;
+        private final @NonNull Socket followerSocket;
+        private final @NonNull DataOutputStream output;
+        private final @NonNull BlockingQueue<BoardMutation> outbound;
+        // The first cause wins: closing the sockets makes the reader and the writer fail as well
+        private final @NonNull AtomicReference<Exception> dropCause = new AtomicReference<>();
+        private volatile boolean writing;
+        private volatile long writeStartNanos;
+        private @Nullable Thread writer;
+
+        private Connection(
+                final @NonNull Socket leaderSocket,
+                final @NonNull Socket followerSocket,
+                final int outboundQueueCapacity) throws IOException {
+            this.leaderSocket = leaderSocket;
+            this.followerSocket = followerSocket;
+            this.output = new DataOutputStream(new BufferedOutputStream(leaderSocket.getOutputStream()));
+            this.outbound = new LinkedBlockingQueue<>(outboundQueueCapacity);
+        }
+
+        private void write(final @NonNull List<BoardMutation> mutations) throws IOException {
+            writeStartNanos = System.nanoTime();
+            writing = true;
+            try {
+                for (BoardMutation mutation : mutations) {
+                    mutation.writeTo(output);
+                }
+                output.flush();
+            } finally {
+                writing = false;
+            }
+        }
+
+        private boolean isWriteStalled(final long writeTimeoutNanos) {
+            return writing && System.nanoTime() - writeStartNanos > writeTimeoutNanos;
+        }
+
+        /**
+         * Closing the sockets unblocks the reader and a writer waiting on a full socket buffer, interrupting the
+         * writer unblocks it while it waits for mutations.
+         */
+        private void drop(final @NonNull Exception cause) {
+            dropCause.compareAndSet(null, cause);
+            closeQuietly(leaderSocket);
+            closeQuietly(followerSocket);
+            if (writer != null) {
+                writer.interrupt();
+            }
+        }
+    }
+}
\ No newline at end of file
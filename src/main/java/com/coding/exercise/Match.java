@@ -8,13 +8,18 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * Class to hold information about a match.
  * <p>The initial score is set to 0-0 automatically.
- * Also, the start time of the match is set based on {@link System#currentTimeMillis()} method.
+ * Also, the start time of the match is set based on {@link System#currentTimeMillis()} method, unless it is
+ * assigned by a {@link ScoreBoard} from its {@link TimeSource}. The board also assigns a start sequence, which orders
+ * the matches started within the same millisecond.
+ * <p>A new match is {@link MatchState#LIVE}; see {@link MatchState} for the rest of its lifecycle.
  */
 public class Match {
     private final long startTime;
+    private final long startSequence;
     private final @NonNull String homeTeamName;
     private final @NonNull String awayTeamName;
     private @NonNull ImmutablePair<Integer, Integer> score;
+    private @NonNull MatchState state;
 
     public Match(final @NonNull String homeTeamName, final @NonNull String awayTeamName) {
         this(homeTeamName, awayTeamName, System.currentTimeMillis());
@@ -22,16 +27,31 @@ public class Match {
 
     @VisibleForTesting
     Match(final @NonNull String homeTeamName, final @NonNull String awayTeamName, final long startTime) {
+        this(homeTeamName, awayTeamName, startTime, 0);
+    }
+
+    Match(
+            final @NonNull String homeTeamName,
+            final @NonNull String awayTeamName,
+            final long startTime,
+            final long startSequence) {
         this.startTime = startTime;
+        this.startSequence = startSequence;
         this.homeTeamName = homeTeamName;
         this.awayTeamName = awayTeamName;
         this.score = new ImmutablePair<>(0, 0);
+        this.state = MatchState.LIVE;
     }
 
     public long getStartTime() {
         return startTime;
     }
 
+    /** Returns the position of the match in the start order of its board (0 if it was not started by a board). */
+    public long getStartSequence() {
+        return startSequence;
+    }
+
     public String getHomeTeamName() {
         return homeTeamName;
     }
@@ -48,6 +68,10 @@ public class Match {
         return score;
     }
 
+    public @NonNull MatchState getState() {
+        return state;
+    }
+
     /** Returns the total sum of goals scored on the match. */
     public int getSumOfScore() {
         return score.left + score.right;
@@ -61,12 +85,30 @@ public class Match {
     /**
      * Set the current score of the match: the immutable pair's 'left' value should hold the home team's score and
      * the 'right' value should hold the away team's score.
+     *
+     * @throws IllegalStateException if the match is not live anymore.
      */
     public void setScore(final @NonNull ImmutablePair<Integer, Integer> newScore) {
+        Preconditions.checkState(state == MatchState.LIVE, "The score of a match can only be updated while it is live");
         validateNewScore(this.score, newScore);
         this.score = newScore;
     }
 
+    /**
+     * Move the match from {@link MatchState#LIVE} to {@link MatchState#FINISHED_RECENTLY}.
+     *
+     * @throws IllegalStateException if the match is not live.
+     */
+    void finish() {
+        Preconditions.checkState(state == MatchState.LIVE, "Only a live match can be finished");
+        this.state = MatchState.FINISHED_RECENTLY;
+    }
+
+    /** Move the match to {@link MatchState#EXPIRED}, regardless of its current state. */
+    void expire() {
+        this.state = MatchState.EXPIRED;
+    }
+
     @Override
     public @NonNull String toString() {
         return homeTeamName + " " + score.left + " - " + awayTeamName + " " + score.right;
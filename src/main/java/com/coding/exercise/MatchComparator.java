@@ -12,7 +12,9 @@ public class MatchComparator implements Comparator<Match> {
      *     <li>the match with a lower total score is "greater";</li>
      *     <li>in case of equal total scores, the start time of the match is taken into account:
      *     the match which started earlier is "greater";</li>
-     *     <li>in case the matches started at the same time,
+     *     <li>in case the matches started at the same time, the start sequence is taken into account:
+     *     the match which was started earlier on the board is "greater";</li>
+     *     <li>in case even the start sequences are equal (e.g. matches not started by a board),
      *     the concatenated team names' lexicographic order decides.</li>
      * </ul>
      */
@@ -22,14 +24,15 @@ public class MatchComparator implements Comparator<Match> {
         if (scoreDifference != 0) {
             return scoreDifference;
         } else {
-            long startTimeDifference = o2.getStartTime() - o1.getStartTime();
-            if (startTimeDifference == 0) {
-                return o1.getTeams().compareTo(o2.getTeams()); // not to be inconsistent with equals
-            } else if (startTimeDifference < 0) {
-                return -1;
-            } else {
-                return 1;
+            int startTimeComparison = Long.compare(o2.getStartTime(), o1.getStartTime());
+            if (startTimeComparison != 0) {
+                return startTimeComparison;
             }
+            int startSequenceComparison = Long.compare(o2.getStartSequence(), o1.getStartSequence());
+            if (startSequenceComparison != 0) {
+                return startSequenceComparison;
+            }
+            return o1.getTeams().compareTo(o2.getTeams()); // not to be inconsistent with equals
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.coding.exercise;
+
+/**
+ * Lifecycle states of a {@link Match}.
+ * <p>A match starts {@link #LIVE}; a regular finish moves it to {@link #FINISHED_RECENTLY}, where it stays visible
+ * for the configured retention window. Any match dropped from the board (retention window elapsed, maximum match
+ * duration exceeded or evicted due to the retention cap) ends up {@link #EXPIRED}.
+ */
+public enum MatchState {
+    LIVE,
+    FINISHED_RECENTLY,
+    EXPIRED
+}
\ No newline at end of file
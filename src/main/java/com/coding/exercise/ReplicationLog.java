@@ -0,0 +1,68 @@
+package com.coding.exercise;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The tail of a leader's replication log, kept by the {@link ReplicationTransport}s so that followers subscribing
+ * late (or again, after a disconnection) can catch up.
+ * <p>The log keeps the last {@code capacity} mutations; a follower which is further behind cannot be caught up.
+ * A mutation out of version order (e.g. published by a second leader) breaks the log for good, as no follower could
+ * be kept consistent with it anymore.
+ * <p>The class is not thread-safe: the owner is responsible for guarding it.
+ */
+class ReplicationLog {
+    private final int capacity;
+    private final @NonNull Deque<BoardMutation> mutations = new ArrayDeque<>();
+    private long nextVersion = 1;
+    private @Nullable String failure;
+
+    ReplicationLog(final int capacity) {
+        Preconditions.checkArgument(capacity > 0, "The capacity of the replication log must be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * @throws IllegalStateException if the mutation is out of version order, or if the log is already broken.
+     */
+    void append(final @NonNull BoardMutation mutation) {
+        checkNotBroken();
+        if (mutation.getVersion() != nextVersion) {
+            this.failure = "Expected the mutation of version " + nextVersion + ", but received "
+                    + mutation.getVersion();
+            throw new IllegalStateException(failure);
+        }
+        if (mutations.size() == capacity) {
+            mutations.removeFirst();
+        }
+        mutations.addLast(mutation);
+        nextVersion++;
+    }
+
+    /**
+     * Returns the retained mutations starting from the given version, in version order.
+     *
+     * @throws IllegalStateException if the mutations from the given version are not retained anymore, if the
+     *                               version is ahead of the log, or if the log is broken.
+     */
+    @NonNull List<BoardMutation> readFrom(final long fromVersion) {
+        checkNotBroken();
+        long firstRetainedVersion = mutations.isEmpty() ? nextVersion : mutations.getFirst().getVersion();
+        if (fromVersion < firstRetainedVersion || fromVersion > nextVersion) {
+            throw new IllegalStateException("Cannot replicate from version " + fromVersion
+                    + ", the log retains the versions from " + firstRetainedVersion + " to " + (nextVersion - 1));
+        }
+        return mutations.stream()
+                .skip(fromVersion - firstRetainedVersion)
+                .toList();
+    }
+
+    private void checkNotBroken() {
+        Preconditions.checkState(failure == null, "The replication log is broken: %s", failure);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.coding.exercise;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.Closeable;
+import java.util.function.Consumer;
+
+/**
+ * Ships the replication log of a leader {@link ScoreBoard} to its followers.
+ * <p>Implementations must deliver the mutations to every subscriber in version order. They retain the tail of the log
+ * (see {@link ReplicationLog}), so a follower can subscribe at any time and catch up from the version it has reached.
+ */
+public interface ReplicationTransport extends Closeable {
+    int DEFAULT_LOG_CAPACITY = 10_000;
+
+    /**
+     * Publish a committed mutation. Called by the leader while holding its write lock, in version order.
+     * <p>No failure must be propagated to the leader, as the mutation is already committed on the leader's board:
+     * a follower which cannot be delivered to is dropped and its failure handler is notified instead. The same goes
+     * for every follower if the log rejects the mutation (e.g. a second leader publishing on the same transport).
+     */
+    void publish(@NonNull BoardMutation mutation);
+
+    /**
+     * Register a follower: the retained mutations from {@code fromVersion} are delivered to it first, followed by
+     * the published ones.
+     * <p>If the follower cannot be kept up-to-date anymore (it fails to apply a mutation, its connection breaks or
+     * the transport is closed), it is dropped and the failure handler is called.
+     *
+     * @throws IllegalStateException if the mutations from {@code fromVersion} are not retained anymore.
+     */
+    void subscribe(
+            long fromVersion,
+            @NonNull Consumer<BoardMutation> follower,
+            @NonNull Consumer<Exception> failureHandler);
+}
\ No newline at end of file
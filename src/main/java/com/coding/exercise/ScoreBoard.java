@@ -5,12 +5,19 @@ import com.google.common.base.Preconditions;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Collection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -20,91 +27,295 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * information about ongoing matches.
  * <p>The implementation uses a {@link ReadWriteLock} to ensure thread-safety (as read operations are expected to be
  * considerably more frequent than write operations).
+ * <p>Finished matches are kept as recent results for a configurable retention window. Live matches which have been
+ * running for longer than the maximum match duration (e.g. because their finish event never arrived) are expired
+ * automatically. Expiry is driven by a {@link TimerWheel}, which is advanced on every operation of the board.
+ * The total number of retained (live and recently finished) matches is capped: when a new match would exceed the
+ * cap, the oldest recently finished match is evicted first; if there are none, the longest running live match is.
+ * <p>Every committed mutation increments the version of the board. A board can be replicated: a leader board
+ * (see {@link #leader(ReplicationTransport)}) publishes its mutations as {@link BoardMutation}s, which follower boards
+ * (see {@link #follower(ReplicationTransport)}) apply in order, including the start times assigned by the leader.
+ * Followers reject direct mutations and do not expire matches on their own, the leader's log tells them what
+ * to drop. Reads can require a minimum version, e.g. the one returned by a mutation on the leader. Waiting for a
+ * version does not hold any lock of the board, so it does not block the replication of the awaited mutations.
+ * <p>The time is read from a pluggable {@link TimeSource}, and every started match gets the next value of a per-board
+ * start sequence, which orders the matches started within the same millisecond. With a deterministic time source,
+ * replaying the same operations results in the same board.
  */
 public class ScoreBoard {
+    public static final @NonNull Duration DEFAULT_FINISHED_RETENTION = Duration.ofMinutes(5);
+    public static final @NonNull Duration DEFAULT_MAX_MATCH_DURATION = Duration.ofHours(4);
+    public static final int DEFAULT_MAX_RETAINED_MATCHES = 1024;
+    private static final long EXPIRY_TICK_MILLIS = 1000;
+    private static final int EXPIRY_WHEEL_SIZE = 512;
     private static final String NOT_PLAYING_EXCEPTION_MESSAGE =
             "These teams are not currently playing each other";
     private static final String NO_ONGOING_MATCHES_MESSAGE =
             "There are no ongoing matches at the moment";
+    private static final String NO_RECENT_RESULTS_MESSAGE =
+            "There are no recently finished matches";
+    private static final String FOLLOWER_MUTATION_EXCEPTION_MESSAGE =
+            "A follower board can only be updated through replication";
     private final @NonNull ReadWriteLock readWriteLock = new ReentrantReadWriteLock(true);
     private final @NonNull Lock writeLock = readWriteLock.writeLock();
     private final @NonNull Lock readLock = readWriteLock.readLock();
+    private final @NonNull Object versionMonitor = new Object();
     private final @NonNull Set<Match> board;
+    private final @NonNull TimeSource timeSource;
+    private final long finishedRetentionMillis;
+    private final long maxMatchDurationMillis;
+    private final int maxRetainedMatches;
+    // Both maps are keyed by the concatenated team names and iterate in start/finish order respectively
+    private final @NonNull Map<String, Match> liveMatches = new LinkedHashMap<>();
+    private final @NonNull Map<String, Match> recentlyFinishedMatches = new LinkedHashMap<>();
+    private final @NonNull Set<String> playingTeams = new HashSet<>();
+    private final @NonNull TimerWheel<Match> expiryWheel;
+    private final @Nullable ReplicationTransport replicationTransport; // only set on leaders
+    private final @NonNull List<BoardMutation> unpublishedMutations = new ArrayList<>();
+    private final boolean follower;
+    private volatile long nextExpiryCheck = Long.MAX_VALUE;
+    private volatile long version;
+    private volatile @Nullable Exception replicationFailure; // only set on followers which stopped replicating
+    private long nextStartSequence = 1;
     private @NonNull String summary;
+    private @NonNull String recentResults;
 
     public ScoreBoard() {
-        this(new TreeSet<>(new MatchComparator()));
+        this(DEFAULT_FINISHED_RETENTION, DEFAULT_MAX_MATCH_DURATION, DEFAULT_MAX_RETAINED_MATCHES);
+    }
+
+    /**
+     * @param finishedRetention  how long a finished match is kept as a recent result.
+     * @param maxMatchDuration   how long a live match may run before it is considered stale and expired.
+     * @param maxRetainedMatches the maximum number of live and recently finished matches kept on the board.
+     */
+    public ScoreBoard(
+            final @NonNull Duration finishedRetention,
+            final @NonNull Duration maxMatchDuration,
+            final int maxRetainedMatches) {
+        this(TimeSource.system(), finishedRetention, maxMatchDuration, maxRetainedMatches);
+    }
+
+    /**
+     * @param timeSource the source of the start times and of the time driving expiry.
+     */
+    public ScoreBoard(final @NonNull TimeSource timeSource) {
+        this(timeSource, DEFAULT_FINISHED_RETENTION, DEFAULT_MAX_MATCH_DURATION, DEFAULT_MAX_RETAINED_MATCHES);
+    }
+
+    /**
+     * @param timeSource         the source of the start times and of the time driving expiry.
+     * @param finishedRetention  how long a finished match is kept as a recent result.
+     * @param maxMatchDuration   how long a live match may run before it is considered stale and expired.
+     * @param maxRetainedMatches the maximum number of live and recently finished matches kept on the board.
+     */
+    public ScoreBoard(
+            final @NonNull TimeSource timeSource,
+            final @NonNull Duration finishedRetention,
+            final @NonNull Duration maxMatchDuration,
+            final int maxRetainedMatches) {
+        this(new TreeSet<>(new MatchComparator()), timeSource,
+                finishedRetention, maxMatchDuration, maxRetainedMatches);
     }
 
     @VisibleForTesting
     ScoreBoard(final @NonNull Set<Match> board) {
+        this(board, TimeSource.system(),
+                DEFAULT_FINISHED_RETENTION, DEFAULT_MAX_MATCH_DURATION, DEFAULT_MAX_RETAINED_MATCHES);
+    }
+
+    @VisibleForTesting
+    ScoreBoard(
+            final @NonNull Set<Match> board,
+            final @NonNull TimeSource timeSource,
+            final @NonNull Duration finishedRetention,
+            final @NonNull Duration maxMatchDuration,
+            final int maxRetainedMatches) {
+        this(board, timeSource, finishedRetention, maxMatchDuration, maxRetainedMatches, null, false);
+    }
+
+    @VisibleForTesting
+    ScoreBoard(
+            final @NonNull Set<Match> board,
+            final @NonNull TimeSource timeSource,
+            final @NonNull Duration finishedRetention,
+            final @NonNull Duration maxMatchDuration,
+            final int maxRetainedMatches,
+            final @Nullable ReplicationTransport replicationTransport,
+            final boolean follower) {
+        Preconditions.checkArgument(!finishedRetention.isNegative(), "The retention window cannot be negative");
+        Preconditions.checkArgument(maxMatchDuration.compareTo(Duration.ZERO) > 0,
+                "The maximum match duration must be positive");
+        Preconditions.checkArgument(maxRetainedMatches > 0, "The maximum number of retained matches must be positive");
         this.board = board;
+        this.timeSource = timeSource;
+        this.finishedRetentionMillis = finishedRetention.toMillis();
+        this.maxMatchDurationMillis = maxMatchDuration.toMillis();
+        this.maxRetainedMatches = maxRetainedMatches;
+        this.replicationTransport = replicationTransport;
+        this.follower = follower;
+        this.expiryWheel = new TimerWheel<>(EXPIRY_TICK_MILLIS, EXPIRY_WHEEL_SIZE, timeSource.currentTimeMillis());
         this.summary = NO_ONGOING_MATCHES_MESSAGE;
+        this.recentResults = NO_RECENT_RESULTS_MESSAGE;
+    }
+
+    /**
+     * Create a leader board with the default configuration, which publishes its mutations to the transport.
+     */
+    public static @NonNull ScoreBoard leader(final @NonNull ReplicationTransport transport) {
+        return leader(transport, DEFAULT_FINISHED_RETENTION, DEFAULT_MAX_MATCH_DURATION, DEFAULT_MAX_RETAINED_MATCHES);
+    }
+
+    /**
+     * Create a leader board which publishes its mutations to the transport.
+     * See {@link #ScoreBoard(Duration, Duration, int)} for the parameters.
+     */
+    public static @NonNull ScoreBoard leader(
+            final @NonNull ReplicationTransport transport,
+            final @NonNull Duration finishedRetention,
+            final @NonNull Duration maxMatchDuration,
+            final int maxRetainedMatches) {
+        return leader(transport, TimeSource.system(), finishedRetention, maxMatchDuration, maxRetainedMatches);
+    }
+
+    /**
+     * Create a leader board which publishes its mutations to the transport.
+     * See {@link #ScoreBoard(TimeSource, Duration, Duration, int)} for the parameters.
+     */
+    public static @NonNull ScoreBoard leader(
+            final @NonNull ReplicationTransport transport,
+            final @NonNull TimeSource timeSource,
+            final @NonNull Duration finishedRetention,
+            final @NonNull Duration maxMatchDuration,
+            final int maxRetainedMatches) {
+        return new ScoreBoard(new TreeSet<>(new MatchComparator()), timeSource,
+                finishedRetention, maxMatchDuration, maxRetainedMatches, transport, false);
+    }
+
+    /**
+     * Create a follower board which applies the mutations received from the transport, starting from the first
+     * mutation of the leader.
+     * <p>The time source, retention and expiry configuration of a follower are irrelevant, as it follows
+     * the leader's decisions.
+     *
+     * @throws IllegalStateException if the transport does not retain the leader's log from the first mutation.
+     */
+    public static @NonNull ScoreBoard follower(final @NonNull ReplicationTransport transport) {
+        ScoreBoard followerBoard = new ScoreBoard(new TreeSet<>(new MatchComparator()), TimeSource.system(),
+                DEFAULT_FINISHED_RETENTION, DEFAULT_MAX_MATCH_DURATION, DEFAULT_MAX_RETAINED_MATCHES, null, true);
+        followerBoard.subscribe(transport);
+        return followerBoard;
+    }
+
+    /**
+     * Subscribe a follower board which stopped replicating (e.g. because its connection broke) to the transport again.
+     * The board catches up from the version it has reached.
+     *
+     * @throws IllegalStateException if the board is not a follower, if it is still replicating, or if the transport
+     *                               does not retain the leader's log from the version following the board's version.
+     */
+    public void resubscribe(final @NonNull ReplicationTransport transport) {
+        Preconditions.checkState(follower, "Only a follower board can subscribe to a replication transport");
+        Exception previousFailure;
+        synchronized (versionMonitor) {
+            previousFailure = replicationFailure;
+            Preconditions.checkState(previousFailure != null, "The follower board is still replicating");
+            this.replicationFailure = null;
+        }
+        try {
+            subscribe(transport);
+        } catch (RuntimeException e) {
+            stopReplicating(previousFailure);
+            throw e;
+        }
     }
 
     /**
      * Start a new {@link Match} and register it on the board.
+     *
+     * @return the version of the board after the match has been started.
      */
-    public void startMatch(final @NonNull String homeTeamName, final @NonNull String awayTeamName) {
+    public long startMatch(final @NonNull String homeTeamName, final @NonNull String awayTeamName) {
+        Preconditions.checkState(!follower, FOLLOWER_MUTATION_EXCEPTION_MESSAGE);
         final String formattedHomeTeam = formatTeamName(homeTeamName);
         final String formattedAwayTeam = formatTeamName(awayTeamName);
         Preconditions.checkArgument(!formattedHomeTeam.isBlank() && !formattedAwayTeam.isBlank(),
                 "The teams names cannot be blank");
         writeLock.lock();
         try {
+            long now = timeSource.currentTimeMillis();
+            expireDueMatches(now);
             validateTeams(formattedHomeTeam, formattedAwayTeam);
-            board.add(new Match(formattedHomeTeam, formattedAwayTeam));
+            enforceRetentionCap(now);
+            registerMatch(new Match(formattedHomeTeam, formattedAwayTeam, now, nextStartSequence++), now);
             updateSummary();
+            return version;
         } finally {
-            writeLock.unlock();
+            publishAndUnlock();
         }
     }
 
     /**
      * Update the score of an existing {@link Match}: the immutable pair's 'left' value should hold
      * the home team's score and the 'right' value should hold the away team's score.
+     *
+     * @return the version of the board after the score has been updated.
      */
-    public void updateScore(
+    public long updateScore(
             final @NonNull String homeTeamName,
             final @NonNull String awayTeamName,
             final @NonNull ImmutablePair<Integer, Integer> newScore) {
+        Preconditions.checkState(!follower, FOLLOWER_MUTATION_EXCEPTION_MESSAGE);
         final String formattedHomeTeam = formatTeamName(homeTeamName);
         final String formattedAwayTeam = formatTeamName(awayTeamName);
         writeLock.lock();
         try {
+            long now = timeSource.currentTimeMillis();
+            expireDueMatches(now);
             Optional<Match> optionalMatch = getMatch(formattedHomeTeam, formattedAwayTeam);
             if (optionalMatch.isPresent()) {
-                Match match = optionalMatch.get();
-                board.remove(match);
-                match.setScore(newScore);
-                board.add(match);
+                changeScore(optionalMatch.get(), newScore, now);
                 updateSummary();
+                return version;
             } else {
                 throw new IllegalArgumentException(NOT_PLAYING_EXCEPTION_MESSAGE);
             }
         } finally {
-            writeLock.unlock();
+            publishAndUnlock();
         }
     }
 
     /**
-     * Finish an existing {@link Match} and deregister it from the score board.
+     * Finish an existing {@link Match} and deregister it from the live matches of the score board.
+     * <p>The match is kept as a recent result until the retention window elapses. A recent result of the same teams
+     * is replaced, and its expiry is committed as a mutation of its own.
+     *
+     * @return the version of the board after the match has been finished.
      */
-    public void finishMatch(final @NonNull String homeTeamName, final @NonNull String awayTeamName) {
+    public long finishMatch(final @NonNull String homeTeamName, final @NonNull String awayTeamName) {
+        Preconditions.checkState(!follower, FOLLOWER_MUTATION_EXCEPTION_MESSAGE);
         final String formattedHomeTeam = formatTeamName(homeTeamName);
         final String formattedAwayTeam = formatTeamName(awayTeamName);
         writeLock.lock();
         try {
+            long now = timeSource.currentTimeMillis();
+            expireDueMatches(now);
             Optional<Match> optionalMatch = getMatch(formattedHomeTeam, formattedAwayTeam);
             if (optionalMatch.isPresent()) {
-                Match match = optionalMatch.get();
-                board.remove(match);
+                // The same teams may have finished another match within the retention window: its result is replaced
+                Match previousResult = recentlyFinishedMatches.get(optionalMatch.get().getTeams());
+                if (previousResult != null) {
+                    evict(previousResult, now);
+                }
+                finishLiveMatch(optionalMatch.get(), now);
                 updateSummary();
+                updateRecentResults();
+                return version;
             } else {
                 throw new IllegalArgumentException(NOT_PLAYING_EXCEPTION_MESSAGE);
             }
         } finally {
-            writeLock.unlock();
+            publishAndUnlock();
         }
     }
 
@@ -113,10 +324,11 @@ public class ScoreBoard {
      * <ul>
      *     <li>the matches are ordered by their total score (higher ones on top);</li>
      *     <li>in case of equal total scores, the more recently started match is shown first;</li>
-     *     <li>if even the start time is the same, then those matches are shown in a lexicographic order.</li>
+     *     <li>if even the start time is the same, then the match started later on the board is shown first.</li>
      * </ul>
      */
     public @NonNull String getSummary() {
+        expireDueMatchesBeforeRead();
         readLock.lock();
         try {
             return summary;
@@ -125,6 +337,79 @@ public class ScoreBoard {
         }
     }
 
+    /**
+     * Get the results of the recently finished {@link Match}es, the most recently finished match is shown first.
+     */
+    public @NonNull String getRecentResults() {
+        expireDueMatchesBeforeRead();
+        readLock.lock();
+        try {
+            return recentResults;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Same as {@link #getSummary()}, but waits until the board has reached at least the given version.
+     *
+     * @throws TimeoutException      if the version is not reached within the timeout.
+     * @throws IllegalStateException if the board is a follower which stopped replicating before reaching the version.
+     */
+    public @NonNull String getSummary(final long minVersion, final @NonNull Duration timeout)
+            throws InterruptedException, TimeoutException {
+        awaitVersion(minVersion, timeout);
+        return getSummary();
+    }
+
+    /**
+     * Same as {@link #getRecentResults()}, but waits until the board has reached at least the given version.
+     *
+     * @throws TimeoutException      if the version is not reached within the timeout.
+     * @throws IllegalStateException if the board is a follower which stopped replicating before reaching the version.
+     */
+    public @NonNull String getRecentResults(final long minVersion, final @NonNull Duration timeout)
+            throws InterruptedException, TimeoutException {
+        awaitVersion(minVersion, timeout);
+        return getRecentResults();
+    }
+
+    /**
+     * Returns the version of the board: the number of mutations committed (on a leader or a standalone board) or
+     * applied (on a follower board).
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Apply a mutation of the leader's replication log on a follower board.
+     *
+     * @throws IllegalStateException if the mutation is out of order or it does not match the state of the board.
+     */
+    void apply(final @NonNull BoardMutation mutation) {
+        Preconditions.checkState(follower, "Only a follower board can apply replicated mutations");
+        writeLock.lock();
+        try {
+            Preconditions.checkState(mutation.getVersion() == version + 1,
+                    "Expected the mutation of version %s, but received %s", version + 1, mutation.getVersion());
+            String teams = mutation.getHomeTeamName() + mutation.getAwayTeamName();
+            long timestamp = mutation.getTimestamp();
+            switch (mutation.getType()) {
+                case START -> registerMatch(new Match(mutation.getHomeTeamName(), mutation.getAwayTeamName(),
+                        timestamp, mutation.getStartSequence()), timestamp);
+                case UPDATE_SCORE -> changeScore(getReplicatedMatch(liveMatches, teams), mutation.getScore(), timestamp);
+                case FINISH -> finishLiveMatch(getReplicatedMatch(liveMatches, teams), timestamp);
+                case EXPIRE_LIVE -> evict(getReplicatedMatch(liveMatches, teams), timestamp);
+                case EXPIRE_FINISHED -> evict(getReplicatedMatch(recentlyFinishedMatches, teams), timestamp);
+            }
+            updateSummary();
+            updateRecentResults();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     private @NonNull String formatTeamName(@NonNull String rawTeamName) {
         String strippedName = rawTeamName.strip();
         return StringUtils.capitalize(strippedName.toLowerCase());
@@ -136,11 +421,7 @@ public class ScoreBoard {
      * @throws IllegalArgumentException if a team is already registered on the board.
      */
     private void validateTeams(final @NonNull String homeTeamName, final @NonNull String awayTeamName) {
-        List<String> allTeams = board.stream()
-                .map(match -> List.of(match.getHomeTeamName(), match.getAwayTeamName()))
-                .flatMap(Collection::stream)
-                .toList();
-        if (allTeams.contains(homeTeamName) || allTeams.contains(awayTeamName)) {
+        if (playingTeams.contains(homeTeamName) || playingTeams.contains(awayTeamName)) {
             throw new IllegalArgumentException("A country can only play one match at the same time");
         }
     }
@@ -150,10 +431,206 @@ public class ScoreBoard {
      * if the two teams are not registered on the board.
      */
     private @NonNull Optional<Match> getMatch(final @NonNull String homeTeamName, final @NonNull String awayTeamName) {
-        String lookedUpTeams = homeTeamName + awayTeamName;
-        return board.stream()
-                .filter(match -> match.getTeams().equals(lookedUpTeams))
-                .findAny();
+        return Optional.ofNullable(liveMatches.get(homeTeamName + awayTeamName));
+    }
+
+    private @NonNull Match getReplicatedMatch(final @NonNull Map<String, Match> matches, final @NonNull String teams) {
+        Match match = matches.get(teams);
+        Preconditions.checkState(match != null, "The replicated mutation refers to an unknown match: %s", teams);
+        return match;
+    }
+
+    private void subscribe(final @NonNull ReplicationTransport transport) {
+        transport.subscribe(version + 1, this::apply, this::stopReplicating);
+    }
+
+    private void stopReplicating(final @NonNull Exception cause) {
+        synchronized (versionMonitor) {
+            this.replicationFailure = cause;
+            versionMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * Waits on a monitor of its own rather than on the locks of the board, so that waiting readers do not block
+     * the mutations they are waiting for.
+     */
+    private void awaitVersion(final long minVersion, final @NonNull Duration timeout)
+            throws InterruptedException, TimeoutException {
+        if (version >= minVersion) {
+            return;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (versionMonitor) {
+            while (version < minVersion) {
+                Exception failure = replicationFailure;
+                if (failure != null) {
+                    throw new IllegalStateException("The follower stopped replicating at version " + version
+                            + " before reaching version " + minVersion, failure);
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException("The board has not reached version " + minVersion + " in time");
+                }
+                TimeUnit.NANOSECONDS.timedWait(versionMonitor, remainingNanos);
+            }
+        }
+    }
+
+    /**
+     * Reads only take the write lock if the expiry wheel may have something to expire. While nothing is scheduled,
+     * this is a single volatile read without reading the clock.
+     */
+    private void expireDueMatchesBeforeRead() {
+        long expiryCheck = nextExpiryCheck;
+        if (expiryCheck == Long.MAX_VALUE) {
+            return;
+        }
+        long now = timeSource.currentTimeMillis();
+        if (now >= expiryCheck) {
+            writeLock.lock();
+            try {
+                expireDueMatches(now);
+            } finally {
+                publishAndUnlock();
+            }
+        }
+    }
+
+    /**
+     * Advance the expiry wheel and drop every match whose deadline has passed.
+     * <p>This must be called while holding the write lock.
+     */
+    private void expireDueMatches(final long now) {
+        List<Match> expiredMatches = expiryWheel.advance(now);
+        if (!expiredMatches.isEmpty()) {
+            expiredMatches.forEach(match -> evict(match, now));
+            updateSummary();
+            updateRecentResults();
+        }
+        updateNextExpiryCheck();
+    }
+
+    /**
+     * Evict matches until there is room for a new one, see the class documentation for the eviction policy.
+     * <p>This must be called while holding the write lock.
+     */
+    private void enforceRetentionCap(final long now) {
+        boolean evictedRecentResult = false;
+        while (liveMatches.size() + recentlyFinishedMatches.size() >= maxRetainedMatches) {
+            Match evictedMatch;
+            if (!recentlyFinishedMatches.isEmpty()) {
+                evictedMatch = recentlyFinishedMatches.values().iterator().next();
+                evictedRecentResult = true;
+            } else {
+                evictedMatch = liveMatches.values().iterator().next();
+            }
+            evict(evictedMatch, now);
+        }
+        if (evictedRecentResult) {
+            updateRecentResults();
+        }
+    }
+
+    /*
+     * The methods below are the only ones modifying the matches of the board, and each of them commits exactly one
+     * mutation. They must be called while holding the write lock, and they do not update the summaries.
+     */
+
+    private void registerMatch(final @NonNull Match match, final long now) {
+        board.add(match);
+        liveMatches.put(match.getTeams(), match);
+        playingTeams.add(match.getHomeTeamName());
+        playingTeams.add(match.getAwayTeamName());
+        if (!follower) {
+            expiryWheel.schedule(match, now + maxMatchDurationMillis);
+            updateNextExpiryCheck();
+        }
+        commit(BoardMutation.Type.START, match, now);
+    }
+
+    private void changeScore(
+            final @NonNull Match match, final @NonNull ImmutablePair<Integer, Integer> newScore, final long now) {
+        board.remove(match);
+        try {
+            match.setScore(newScore);
+        } finally {
+            board.add(match);
+        }
+        commit(BoardMutation.Type.UPDATE_SCORE, match, now);
+    }
+
+    private void finishLiveMatch(final @NonNull Match match, final long now) {
+        board.remove(match);
+        liveMatches.remove(match.getTeams());
+        removePlayingTeams(match);
+        match.finish();
+        recentlyFinishedMatches.put(match.getTeams(), match);
+        if (!follower) {
+            expiryWheel.schedule(match, now + finishedRetentionMillis);
+            updateNextExpiryCheck();
+        }
+        commit(BoardMutation.Type.FINISH, match, now);
+    }
+
+    /**
+     * Deregister the match from the board and mark it as expired.
+     */
+    private void evict(final @NonNull Match match, final long now) {
+        BoardMutation.Type mutationType;
+        expiryWheel.cancel(match);
+        if (match.getState() == MatchState.LIVE) {
+            board.remove(match);
+            liveMatches.remove(match.getTeams());
+            removePlayingTeams(match);
+            mutationType = BoardMutation.Type.EXPIRE_LIVE;
+        } else {
+            recentlyFinishedMatches.remove(match.getTeams());
+            mutationType = BoardMutation.Type.EXPIRE_FINISHED;
+        }
+        match.expire();
+        commit(mutationType, match, now);
+    }
+
+    private void removePlayingTeams(final @NonNull Match match) {
+        playingTeams.remove(match.getHomeTeamName());
+        playingTeams.remove(match.getAwayTeamName());
+    }
+
+    /**
+     * Increment the version of the board and, on a leader, queue the mutation for {@link #publishAndUnlock()}.
+     */
+    private void commit(final BoardMutation.@NonNull Type type, final @NonNull Match match, final long timestamp) {
+        synchronized (versionMonitor) {
+            this.version = version + 1;
+            versionMonitor.notifyAll();
+        }
+        if (replicationTransport != null) {
+            unpublishedMutations.add(new BoardMutation(version, type, match.getHomeTeamName(),
+                    match.getAwayTeamName(), match.getStartSequence(), match.getScore(), timestamp));
+        }
+    }
+
+    /**
+     * Publish the mutations committed while holding the write lock, then release it.
+     * <p>The mutations are only published once the whole operation has been applied (summaries included), so a
+     * transport breaking its contract by throwing cannot leave the board half-updated. They are published before
+     * releasing the lock, so that the transport receives them in version order.
+     */
+    private void publishAndUnlock() {
+        try {
+            if (replicationTransport != null && !unpublishedMutations.isEmpty()) {
+                List<BoardMutation> mutations = new ArrayList<>(unpublishedMutations);
+                unpublishedMutations.clear();
+                mutations.forEach(replicationTransport::publish);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void updateNextExpiryCheck() {
+        this.nextExpiryCheck = expiryWheel.nextTickTime();
     }
 
     /**
@@ -163,6 +640,7 @@ public class ScoreBoard {
     private void updateSummary() {
         if (board.isEmpty()) {
             this.summary = NO_ONGOING_MATCHES_MESSAGE;
+            return;
         }
         StringBuilder stringBuilder = new StringBuilder();
         int counter = 1;
@@ -177,4 +655,26 @@ public class ScoreBoard {
         }
         this.summary = stringBuilder.toString();
     }
+
+    /**
+     * Updates the recent results based on the recently finished matches.
+     * <p>This must be called after each operation which modifies the recently finished matches.
+     */
+    private void updateRecentResults() {
+        if (recentlyFinishedMatches.isEmpty()) {
+            this.recentResults = NO_RECENT_RESULTS_MESSAGE;
+            return;
+        }
+        List<Match> results = new ArrayList<>(recentlyFinishedMatches.values());
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int i = results.size() - 1; i >= 0; i--) {
+            stringBuilder.append(results.size() - i);
+            stringBuilder.append(". ");
+            stringBuilder.append(results.get(i).toString());
+            if (i != 0) {
+                stringBuilder.append(System.lineSeparator());
+            }
+        }
+        this.recentResults = stringBuilder.toString();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.coding.exercise;
+
+/**
+ * The source of the current time used by a {@link ScoreBoard}, e.g. to assign the start time of the matches.
+ * <p>Injecting a time source makes the board's behaviour reproducible, and allows using a cheaper clock than
+ * {@link System#currentTimeMillis()} (see {@link CoarseTimeSource}).
+ */
+@FunctionalInterface
+public interface TimeSource {
+
+    /** Returns the current time in milliseconds since the epoch. */
+    long currentTimeMillis();
+
+    /** Returns a time source which reads {@link System#currentTimeMillis()} on every call. */
+    static TimeSource system() {
+        return System::currentTimeMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.coding.exercise;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hashed timer wheel used to expire items in amortised O(1) time.
+ * <p>Time is divided into ticks of {@code tickMillis}; an item is placed into the bucket of the tick in which its
+ * deadline falls, so scheduling and cancelling are constant time operations, while advancing the wheel only visits
+ * the buckets of the elapsed ticks. Deadlines further away than one revolution of the wheel simply stay in their
+ * bucket until their tick comes around.
+ * <p>The class is not thread-safe: the owner is responsible for guarding it.
+ */
+class TimerWheel<T> {
+    private final long tickMillis;
+    private final @NonNull List<Set<T>> buckets;
+    private final @NonNull Map<T, Long> deadlineTicks = new HashMap<>();
+    private long lastProcessedTick;
+
+    TimerWheel(final long tickMillis, final int wheelSize, final long startTime) {
+        Preconditions.checkArgument(tickMillis > 0, "The tick duration must be positive");
+        Preconditions.checkArgument(wheelSize > 0, "The wheel size must be positive");
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new HashSet<>());
+        }
+        this.lastProcessedTick = startTime / tickMillis;
+    }
+
+    /**
+     * Schedule the item to expire at the given deadline (or reschedule it, if it had already been scheduled).
+     * <p>The item expires at the first tick boundary not earlier than the deadline.
+     */
+    void schedule(final @NonNull T item, final long deadline) {
+        cancel(item);
+        // Deadlines in the past are due on the next tick, placing them in an already visited bucket would delay them
+        long deadlineTick = Math.max(Math.floorDiv(deadline + tickMillis - 1, tickMillis), lastProcessedTick + 1);
+        deadlineTicks.put(item, deadlineTick);
+        bucketOf(deadlineTick).add(item);
+    }
+
+    /** Remove the item from the wheel. Does nothing if the item is not scheduled. */
+    void cancel(final @NonNull T item) {
+        Long deadlineTick = deadlineTicks.remove(item);
+        if (deadlineTick != null) {
+            bucketOf(deadlineTick).remove(item);
+        }
+    }
+
+    /**
+     * Advance the wheel to the given time and return the items whose deadline has passed.
+     * <p>The returned items are no longer scheduled.
+     */
+    @NonNull List<T> advance(final long now) {
+        long currentTick = now / tickMillis;
+        List<T> expiredItems = new ArrayList<>();
+        if (currentTick <= lastProcessedTick) {
+            return expiredItems;
+        }
+        long ticksToProcess = Math.min(currentTick - lastProcessedTick, buckets.size());
+        for (long tick = currentTick - ticksToProcess + 1; tick <= currentTick; tick++) {
+            Iterator<T> iterator = bucketOf(tick).iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                if (deadlineTicks.get(item) <= currentTick) {
+                    iterator.remove();
+                    deadlineTicks.remove(item);
+                    expiredItems.add(item);
+                }
+            }
+        }
+        lastProcessedTick = currentTick;
+        return expiredItems;
+    }
+
+    /**
+     * Returns the earliest time at which {@link #advance(long)} may find expired items,
+     * or {@link Long#MAX_VALUE} if the wheel is empty.
+     */
+    long nextTickTime() {
+        return deadlineTicks.isEmpty() ? Long.MAX_VALUE : (lastProcessedTick + 1) * tickMillis;
+    }
+
+    int size() {
+        return deadlineTicks.size();
+    }
+
+    private @NonNull Set<T> bucketOf(final long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.coding.exercise;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+class BoardMutationTest {
+
+    @Test
+    void testSerialisationRoundTrip() throws IOException {
+        BoardMutation mutation = new BoardMutation(42, BoardMutation.Type.UPDATE_SCORE,
+                "Hungary", "Norway", 7, new ImmutablePair<>(2, 1), 1732549027500L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        mutation.writeTo(new DataOutputStream(bytes));
+        BoardMutation readMutation =
+                BoardMutation.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        Assertions.assertEquals(42, readMutation.getVersion());
+        Assertions.assertEquals(BoardMutation.Type.UPDATE_SCORE, readMutation.getType());
+        Assertions.assertEquals("Hungary", readMutation.getHomeTeamName());
+        Assertions.assertEquals("Norway", readMutation.getAwayTeamName());
+        Assertions.assertEquals(7, readMutation.getStartSequence());
+        Assertions.assertEquals(new ImmutablePair<>(2, 1), readMutation.getScore());
+        Assertions.assertEquals(1732549027500L, readMutation.getTimestamp());
+    }
+
+    @Test
+    void testToString() {
+        BoardMutation mutation = new BoardMutation(1, BoardMutation.Type.START,
+                "Hungary", "Norway", 1, new ImmutablePair<>(0, 0), 1732549027500L);
+        Assertions.assertEquals("1 START Hungary 0 - Norway 0 @1732549027500", mutation.toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.coding.exercise;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CoarseTimeSourceTest {
+
+    @Test
+    void testTimeIsInitialisedOnCreation() {
+        long before = System.currentTimeMillis();
+        try (CoarseTimeSource timeSource = new CoarseTimeSource(Duration.ofHours(1))) {
+            long time = timeSource.currentTimeMillis();
+            Assertions.assertTrue(time >= before && time <= System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    void testTimeIsRefreshedByTicker() throws InterruptedException {
+        try (CoarseTimeSource timeSource = new CoarseTimeSource(Duration.ofMillis(1))) {
+            long initialTime = timeSource.currentTimeMillis();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (timeSource.currentTimeMillis() == initialTime && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            Assertions.assertTrue(timeSource.currentTimeMillis() > initialTime);
+        }
+    }
+
+    @Test
+    void testZeroResolution() {
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CoarseTimeSource(Duration.ZERO));
+        Assertions.assertEquals("The resolution must be at least one millisecond", exception.getMessage());
+    }
+
+    @Test
+    void testTimeNeverGoesBackwards() {
+        AtomicLong systemTime = new AtomicLong(1732549027000L);
+        // The resolution is long enough for the ticker not to interfere with the explicit ticks
+        try (CoarseTimeSource timeSource = new CoarseTimeSource(Duration.ofHours(1), systemTime::get)) {
+            systemTime.set(1732549026000L);
+            timeSource.tick();
+            Assertions.assertEquals(1732549027000L, timeSource.currentTimeMillis());
+            systemTime.set(1732549028000L);
+            timeSource.tick();
+            Assertions.assertEquals(1732549028000L, timeSource.currentTimeMillis());
+        }
+    }
+}
\ No newline at end of file
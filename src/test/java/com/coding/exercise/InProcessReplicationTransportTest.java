@@ -0,0 +1,233 @@
+package com.coding.exercise;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InProcessReplicationTransportTest {
+    private final InProcessReplicationTransport transport = new InProcessReplicationTransport();
+    private final AtomicLong clock = new AtomicLong(1732549027000L);
+    private final List<Exception> followerFailures = new ArrayList<>();
+    private Set<Match> followerMatches;
+    private ScoreBoard leader;
+    private ScoreBoard follower;
+
+    @BeforeEach
+    void setUp() {
+        leader = new ScoreBoard(new TreeSet<>(new MatchComparator()), clock::get,
+                Duration.ofMinutes(5), Duration.ofHours(4), 3, transport, false);
+        followerMatches = new TreeSet<>(new MatchComparator());
+        follower = new ScoreBoard(followerMatches, () -> 0L,
+                Duration.ofMinutes(5), Duration.ofHours(4), 3, null, true);
+        transport.subscribe(1, follower::apply, followerFailures::add);
+    }
+
+    @Test
+    void testFollowerReplicatesLeader() {
+        leader.startMatch("Mexico", "Canada");
+        clock.addAndGet(1000);
+        leader.startMatch("Spain", "Brazil");
+        leader.updateScore("Mexico", "Canada", new ImmutablePair<>(0, 5));
+        long version = leader.finishMatch("Spain", "Brazil");
+        Assertions.assertEquals(4, version);
+        Assertions.assertEquals(version, follower.getVersion());
+        Assertions.assertEquals(leader.getSummary(), follower.getSummary());
+        Assertions.assertEquals(leader.getRecentResults(), follower.getRecentResults());
+        Assertions.assertTrue(followerFailures.isEmpty());
+    }
+
+    @Test
+    void testFollowerUsesStartTimesOfLeader() {
+        leader.startMatch("Mexico", "Canada");
+        clock.addAndGet(1000);
+        leader.startMatch("Spain", "Brazil");
+        List<Long> startTimes = new ArrayList<>();
+        followerMatches.forEach(match -> startTimes.add(match.getStartTime()));
+        Assertions.assertEquals(List.of(1732549028000L, 1732549027000L), startTimes);
+        String expectedSummary = "1. Spain 0 - Brazil 0" + System.lineSeparator() + "2. Mexico 0 - Canada 0";
+        Assertions.assertEquals(expectedSummary, follower.getSummary());
+    }
+
+    @Test
+    void testFollowerReplicatesExpiry() {
+        leader.startMatch("Mexico", "Canada");
+        leader.finishMatch("Mexico", "Canada");
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        Assertions.assertEquals("There are no recently finished matches", leader.getRecentResults());
+        Assertions.assertEquals(3, follower.getVersion());
+        Assertions.assertEquals("There are no recently finished matches", follower.getRecentResults());
+    }
+
+    @Test
+    void testFollowerReplicatesReplacedResult() {
+        List<BoardMutation.Type> types = new ArrayList<>();
+        transport.subscribe(1, mutation -> types.add(mutation.getType()), followerFailures::add);
+        leader.startMatch("Mexico", "Canada");
+        leader.updateScore("Mexico", "Canada", new ImmutablePair<>(1, 0));
+        leader.finishMatch("Mexico", "Canada");
+        leader.startMatch("Mexico", "Canada");
+        Assertions.assertEquals(6, leader.finishMatch("Mexico", "Canada"));
+        Assertions.assertEquals(List.of(BoardMutation.Type.START, BoardMutation.Type.UPDATE_SCORE,
+                BoardMutation.Type.FINISH, BoardMutation.Type.START, BoardMutation.Type.EXPIRE_FINISHED,
+                BoardMutation.Type.FINISH), types);
+        Assertions.assertEquals("1. Mexico 0 - Canada 0", follower.getRecentResults());
+        Assertions.assertEquals(leader.getRecentResults(), follower.getRecentResults());
+        Assertions.assertTrue(followerFailures.isEmpty());
+    }
+
+    @Test
+    void testFollowerReplicatesRetentionCap() {
+        leader.startMatch("Mexico", "Canada");
+        leader.startMatch("Spain", "Brazil");
+        leader.startMatch("Germany", "France");
+        leader.startMatch("Hungary", "Norway");
+        Assertions.assertEquals(3, followerMatches.size());
+        Assertions.assertEquals(leader.getSummary(), follower.getSummary());
+    }
+
+    @Test
+    void testFollowerRejectsDirectMutations() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> follower.startMatch("Mexico", "Canada"));
+        Assertions.assertEquals(
+                "A follower board can only be updated through replication", exception.getMessage());
+    }
+
+    @Test
+    void testFollowerRejectsOutOfOrderMutation() {
+        BoardMutation mutation = new BoardMutation(2, BoardMutation.Type.START,
+                "Mexico", "Canada", 1, new ImmutablePair<>(0, 0), 1732549027000L);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> follower.apply(mutation));
+        Assertions.assertEquals("Expected the mutation of version 1, but received 2", exception.getMessage());
+    }
+
+    @Test
+    void testFollowerRejectsMutationOfUnknownMatch() {
+        BoardMutation mutation = new BoardMutation(1, BoardMutation.Type.FINISH,
+                "Mexico", "Canada", 1, new ImmutablePair<>(0, 0), 1732549027000L);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> follower.apply(mutation));
+        Assertions.assertEquals(
+                "The replicated mutation refers to an unknown match: MexicoCanada", exception.getMessage());
+    }
+
+    @Test
+    void testFollowerUsesStartSequencesOfLeader() {
+        leader.startMatch("Spain", "Brazil");
+        leader.startMatch("Mexico", "Canada");
+        List<Long> startSequences = new ArrayList<>();
+        followerMatches.forEach(match -> startSequences.add(match.getStartSequence()));
+        Assertions.assertEquals(List.of(2L, 1L), startSequences);
+        Assertions.assertEquals(leader.getSummary(), follower.getSummary());
+    }
+
+    @Test
+    void testLateFollowerCatchesUp() {
+        leader.startMatch("Mexico", "Canada");
+        ScoreBoard lateFollower = ScoreBoard.follower(transport);
+        Assertions.assertEquals(1, lateFollower.getVersion());
+        leader.startMatch("Spain", "Brazil");
+        Assertions.assertEquals(2, leader.getVersion());
+        Assertions.assertEquals(2, lateFollower.getVersion());
+        Assertions.assertEquals(leader.getSummary(), lateFollower.getSummary());
+    }
+
+    @Test
+    void testFailingFollowerDoesNotAffectLeader() {
+        AtomicInteger deliveries = new AtomicInteger();
+        List<Exception> failures = new ArrayList<>();
+        transport.subscribe(1, mutation -> {
+            deliveries.incrementAndGet();
+            throw new IllegalStateException("Broken follower");
+        }, failures::add);
+        Assertions.assertEquals(1, leader.startMatch("Mexico", "Canada"));
+        Assertions.assertEquals(2, leader.startMatch("Spain", "Brazil"));
+        Assertions.assertEquals(1, deliveries.get());
+        Assertions.assertEquals(1, failures.size());
+        Assertions.assertEquals("Broken follower", failures.get(0).getMessage());
+        String expectedSummary = "1. Spain 0 - Brazil 0" + System.lineSeparator() + "2. Mexico 0 - Canada 0";
+        Assertions.assertEquals(expectedSummary, leader.getSummary());
+        Assertions.assertEquals(expectedSummary, follower.getSummary());
+    }
+
+    @Test
+    void testStoppedFollowerFailsFastAndResubscribes() throws Exception {
+        ScoreBoard stoppedFollower = ScoreBoard.follower(transport);
+        leader.startMatch("Mexico", "Canada");
+        transport.close();
+        leader.startMatch("Spain", "Brazil");
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> stoppedFollower.getSummary(2, Duration.ofSeconds(10)));
+        Assertions.assertEquals(
+                "The follower stopped replicating at version 1 before reaching version 2", exception.getMessage());
+        stoppedFollower.resubscribe(transport);
+        Assertions.assertEquals(leader.getSummary(), stoppedFollower.getSummary(2, Duration.ZERO));
+    }
+
+    @Test
+    void testReplicatingFollowerCannotResubscribe() {
+        ScoreBoard replicatingFollower = ScoreBoard.follower(transport);
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> replicatingFollower.resubscribe(transport));
+        Assertions.assertEquals("The follower board is still replicating", exception.getMessage());
+        leader.startMatch("Mexico", "Canada");
+        Assertions.assertEquals(1, replicatingFollower.getVersion());
+        Assertions.assertEquals(leader.getSummary(), replicatingFollower.getSummary());
+    }
+
+    @Test
+    void testFailedResubscribeKeepsFollowerStopped() {
+        InProcessReplicationTransport shortTransport = new InProcessReplicationTransport(1);
+        ScoreBoard shortLeader = ScoreBoard.leader(shortTransport);
+        ScoreBoard stoppedFollower = ScoreBoard.follower(shortTransport);
+        shortTransport.close();
+        shortLeader.startMatch("Mexico", "Canada");
+        shortLeader.startMatch("Spain", "Brazil");
+        assertThrows(IllegalStateException.class, () -> stoppedFollower.resubscribe(shortTransport));
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> stoppedFollower.getSummary(1, Duration.ofSeconds(10)));
+        Assertions.assertEquals(
+                "The follower stopped replicating at version 0 before reaching version 1", exception.getMessage());
+    }
+
+    @Test
+    void testSecondLeaderBreaksLogWithoutAffectingLeaders() {
+        ScoreBoard secondLeader = ScoreBoard.leader(transport);
+        leader.startMatch("Mexico", "Canada");
+        Assertions.assertEquals(1, secondLeader.startMatch("Spain", "Brazil"));
+        Assertions.assertEquals("1. Spain 0 - Brazil 0", secondLeader.getSummary());
+        Assertions.assertEquals(2, leader.startMatch("Germany", "France"));
+        String expectedSummary = "1. Germany 0 - France 0" + System.lineSeparator() + "2. Mexico 0 - Canada 0";
+        Assertions.assertEquals(expectedSummary, leader.getSummary());
+        Assertions.assertEquals(1, followerFailures.size());
+        Assertions.assertEquals("Expected the mutation of version 2, but received 1",
+                followerFailures.get(0).getMessage());
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> ScoreBoard.follower(transport));
+        Assertions.assertEquals(
+                "The replication log is broken: Expected the mutation of version 2, but received 1",
+                exception.getMessage());
+    }
+
+    @Test
+    void testFollowerTooFarBehindLog() {
+        InProcessReplicationTransport shortTransport = new InProcessReplicationTransport(1);
+        ScoreBoard shortLeader = ScoreBoard.leader(shortTransport);
+        shortLeader.startMatch("Mexico", "Canada");
+        shortLeader.startMatch("Spain", "Brazil");
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> ScoreBoard.follower(shortTransport));
+        Assertions.assertEquals(
+                "Cannot replicate from version 1, the log retains the versions from 2 to 2", exception.getMessage());
+    }
+}
\ No newline at end of file
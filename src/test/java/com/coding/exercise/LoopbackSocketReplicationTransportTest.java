@@ -0,0 +1,156 @@
+package com.coding.exercise;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoopbackSocketReplicationTransportTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private LoopbackSocketReplicationTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        transport = new LoopbackSocketReplicationTransport();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        transport.close();
+    }
+
+    @Test
+    void testFollowersReplicateLeader() throws Exception {
+        ScoreBoard leader = ScoreBoard.leader(transport);
+        ScoreBoard follower1 = ScoreBoard.follower(transport);
+        ScoreBoard follower2 = ScoreBoard.follower(transport);
+        leader.startMatch("Mexico", "Canada");
+        leader.startMatch("Spain", "Brazil");
+        leader.updateScore("Spain", "Brazil", new ImmutablePair<>(10, 2));
+        long version = leader.finishMatch("Mexico", "Canada");
+        Assertions.assertEquals(leader.getSummary(), follower1.getSummary(version, TIMEOUT));
+        Assertions.assertEquals(leader.getRecentResults(), follower1.getRecentResults(version, TIMEOUT));
+        Assertions.assertEquals(leader.getSummary(), follower2.getSummary(version, TIMEOUT));
+        Assertions.assertEquals(version, follower2.getVersion());
+    }
+
+    @Test
+    void testLeaderKeepsWorkingWithoutFollowers() throws IOException {
+        ScoreBoard leader = ScoreBoard.leader(transport);
+        ScoreBoard.follower(transport);
+        transport.close();
+        leader.startMatch("Mexico", "Canada");
+        Assertions.assertEquals("1. Mexico 0 - Canada 0", leader.getSummary());
+    }
+
+    @Test
+    void testLateFollowerCatchesUp() throws Exception {
+        ScoreBoard leader = ScoreBoard.leader(transport);
+        leader.startMatch("Mexico", "Canada");
+        leader.updateScore("Mexico", "Canada", new ImmutablePair<>(1, 0));
+        ScoreBoard lateFollower = ScoreBoard.follower(transport);
+        long version = leader.startMatch("Spain", "Brazil");
+        Assertions.assertEquals(leader.getSummary(), lateFollower.getSummary(version, TIMEOUT));
+    }
+
+    @Test
+    void testFollowerFailsFastWhenTransportCloses() throws IOException {
+        ScoreBoard.leader(transport);
+        ScoreBoard follower = ScoreBoard.follower(transport);
+        transport.close();
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> follower.getSummary(1, TIMEOUT));
+        Assertions.assertEquals(
+                "The follower stopped replicating at version 0 before reaching version 1", exception.getMessage());
+    }
+
+    @Test
+    void testFollowerIgnoresForeignConnection() throws Exception {
+        ScoreBoard leader = ScoreBoard.leader(transport);
+        try (Socket foreignSocket = new Socket(InetAddress.getLoopbackAddress(), transport.getLocalPort())) {
+            ScoreBoard follower = ScoreBoard.follower(transport);
+            long version = leader.startMatch("Mexico", "Canada");
+            Assertions.assertEquals(leader.getSummary(), follower.getSummary(version, TIMEOUT));
+            Assertions.assertEquals(-1, foreignSocket.getInputStream().read());
+        }
+    }
+
+    @Test
+    void testSecondLeaderBreaksLogWithoutAffectingLeaders() throws Exception {
+        ScoreBoard leader = ScoreBoard.leader(transport);
+        ScoreBoard secondLeader = ScoreBoard.leader(transport);
+        CompletableFuture<Exception> failure = new CompletableFuture<>();
+        transport.subscribe(1, mutation -> { }, failure::complete);
+        leader.startMatch("Mexico", "Canada");
+        Assertions.assertEquals(1, secondLeader.startMatch("Spain", "Brazil"));
+        Assertions.assertEquals(2, leader.startMatch("Germany", "France"));
+        Assertions.assertEquals("1. Spain 0 - Brazil 0", secondLeader.getSummary());
+        Assertions.assertEquals("Expected the mutation of version 2, but received 1",
+                failure.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS).getMessage());
+    }
+
+    @Test
+    void testStalledFollowerOverflowingItsQueueIsDropped() throws Exception {
+        transport.close();
+        transport = new LoopbackSocketReplicationTransport(
+                ReplicationTransport.DEFAULT_LOG_CAPACITY, 16, Duration.ofMinutes(1));
+        assertStalledFollowerIsDropped(
+                IllegalStateException.class, "The follower fell behind by more than 16 mutations");
+    }
+
+    @Test
+    void testStalledFollowerExceedingWriteTimeoutIsDropped() throws Exception {
+        transport.close();
+        transport = new LoopbackSocketReplicationTransport(
+                ReplicationTransport.DEFAULT_LOG_CAPACITY, Integer.MAX_VALUE, Duration.ofMillis(100));
+        assertStalledFollowerIsDropped(
+                SocketTimeoutException.class, "The follower did not accept the log within PT0.1S");
+    }
+
+    /**
+     * Stalls a follower until the transport drops it, making sure that the leader keeps completing its mutations and
+     * reads in the meantime.
+     */
+    private void assertStalledFollowerIsDropped(
+            final Class<? extends Exception> expectedFailure, final String expectedMessage) throws Exception {
+        ScoreBoard leader = ScoreBoard.leader(transport);
+        leader.startMatch("Mexico", "Canada");
+        CountDownLatch stall = new CountDownLatch(1);
+        CompletableFuture<Exception> failure = new CompletableFuture<>();
+        transport.subscribe(1, mutation -> {
+            try {
+                stall.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, failure::complete);
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        int homeScore = 0;
+        while (transport.connectedFollowers() > 0) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "The stalled follower was never dropped");
+            homeScore++;
+            leader.updateScore("Mexico", "Canada", new ImmutablePair<>(homeScore, 0));
+            if (homeScore % 10_000 == 0) {
+                // Leaves time to the writer to fill up the socket buffers, and to the write timeout to elapse
+                Thread.sleep(50);
+            }
+        }
+        Assertions.assertEquals("1. Mexico " + homeScore + " - Canada 0", leader.getSummary());
+        stall.countDown();
+        Exception cause = failure.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        Assertions.assertEquals(expectedFailure, cause.getClass());
+        Assertions.assertEquals(expectedMessage, cause.getMessage());
+    }
+}
\ No newline at end of file
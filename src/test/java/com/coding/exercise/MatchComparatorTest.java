@@ -56,4 +56,20 @@ class MatchComparatorTest {
         int comparatorResult = comparator.compare(match1, match2);
         Assertions.assertEquals(0, comparatorResult);
     }
+
+    @Test
+    void testScoreEqualityStartedSameTimeMatch1StartedLaterOnBoard() {
+        this.match1 = new Match("England", "France", 1732549027600L, 2);
+        this.match2 = new Match("Switzerland", "Slovenia", 1732549027600L, 1);
+        int comparatorResult = comparator.compare(match1, match2);
+        Assertions.assertTrue(comparatorResult < 0);
+    }
+
+    @Test
+    void testScoreEqualityStartedSameTimeMatch2StartedLaterOnBoard() {
+        this.match1 = new Match("England", "France", 1732549027600L, 1);
+        this.match2 = new Match("Switzerland", "Slovenia", 1732549027600L, 2);
+        int comparatorResult = comparator.compare(match1, match2);
+        Assertions.assertTrue(comparatorResult > 0);
+    }
 }
\ No newline at end of file
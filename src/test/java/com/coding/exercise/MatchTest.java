@@ -75,4 +75,39 @@ class MatchTest {
                 "Scores cannot decrease and at least one of the scores should be higher than the current one",
                 exception.getMessage());
     }
+
+    @Test
+    void testNewMatchIsLive() {
+        Assertions.assertEquals(MatchState.LIVE, match.getState());
+    }
+
+    @Test
+    void testFinish() {
+        match.finish();
+        Assertions.assertEquals(MatchState.FINISHED_RECENTLY, match.getState());
+    }
+
+    @Test
+    void testFinishTwice() {
+        match.finish();
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, match::finish);
+        Assertions.assertEquals("Only a live match can be finished", exception.getMessage());
+    }
+
+    @Test
+    void testExpire() {
+        match.finish();
+        match.expire();
+        Assertions.assertEquals(MatchState.EXPIRED, match.getState());
+    }
+
+    @Test
+    void testSetScoreAfterFinish() {
+        match.finish();
+        ImmutablePair<Integer, Integer> newScore = new ImmutablePair<>(0, 1);
+        IllegalStateException exception =
+                Assertions.assertThrows(IllegalStateException.class, () -> match.setScore(newScore));
+        Assertions.assertEquals(
+                "The score of a match can only be updated while it is live", exception.getMessage());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.coding.exercise;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReplicationLogTest {
+    private final ReplicationLog log = new ReplicationLog(2);
+
+    private static BoardMutation mutation(final long version) {
+        return new BoardMutation(version, BoardMutation.Type.START,
+                "Hungary", "Norway", version, new ImmutablePair<>(0, 0), 1732549027000L);
+    }
+
+    @Test
+    void testReadFromEmptyLog() {
+        Assertions.assertTrue(log.readFrom(1).isEmpty());
+    }
+
+    @Test
+    void testReadFrom() {
+        BoardMutation first = mutation(1);
+        BoardMutation second = mutation(2);
+        log.append(first);
+        log.append(second);
+        Assertions.assertEquals(List.of(first, second), log.readFrom(1));
+        Assertions.assertEquals(List.of(second), log.readFrom(2));
+        Assertions.assertTrue(log.readFrom(3).isEmpty());
+    }
+
+    @Test
+    void testOldestMutationIsDroppedAtCapacity() {
+        log.append(mutation(1));
+        log.append(mutation(2));
+        log.append(mutation(3));
+        Assertions.assertEquals(2, log.readFrom(2).size());
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> log.readFrom(1));
+        Assertions.assertEquals(
+                "Cannot replicate from version 1, the log retains the versions from 2 to 3", exception.getMessage());
+    }
+
+    @Test
+    void testReadAheadOfLog() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> log.readFrom(2));
+        Assertions.assertEquals(
+                "Cannot replicate from version 2, the log retains the versions from 1 to 0", exception.getMessage());
+    }
+
+    @Test
+    void testAppendOutOfOrder() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> log.append(mutation(2)));
+        Assertions.assertEquals("Expected the mutation of version 1, but received 2", exception.getMessage());
+    }
+
+    @Test
+    void testLogIsBrokenByOutOfOrderMutation() {
+        log.append(mutation(1));
+        assertThrows(IllegalStateException.class, () -> log.append(mutation(1)));
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> log.append(mutation(2)));
+        Assertions.assertEquals("The replication log is broken: Expected the mutation of version 2, but received 1",
+                exception.getMessage());
+        assertThrows(IllegalStateException.class, () -> log.readFrom(1));
+    }
+}
\ No newline at end of file
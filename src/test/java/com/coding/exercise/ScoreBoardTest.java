@@ -5,9 +5,17 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -154,6 +162,18 @@ class ScoreBoardTest {
                 "Scores cannot decrease and at least one of the scores should be higher than the current one", exception.getMessage());
     }
 
+    @Test
+    void testRejectedUpdateKeepsMatchOnBoard() {
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.updateScore("Mexico", "Canada", new ImmutablePair<>(0, 1));
+        ImmutablePair<Integer, Integer> sameScore = new ImmutablePair<>(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore("Mexico", "Canada", sameScore));
+        Assertions.assertEquals(1, testBoard.size());
+        Assertions.assertEquals("1. Mexico 0 - Canada 1", scoreBoard.getSummary());
+        scoreBoard.finishMatch("Mexico", "Canada");
+        Assertions.assertTrue(testBoard.isEmpty());
+    }
+
     @Test
     void testUpdateNonExistentMatch() {
         ImmutablePair<Integer, Integer> newScore = new ImmutablePair<>(0, 1);
@@ -275,4 +295,272 @@ class ScoreBoardTest {
         String actualSummary = scoreBoard.getSummary();
         Assertions.assertEquals(expectedSummary, actualSummary);
     }
+
+    // Tests for LIFECYCLE
+    private ScoreBoard createLifecycleBoard(final AtomicLong clock, final int maxRetainedMatches) {
+        return new ScoreBoard(testBoard, clock::get,
+                Duration.ofMinutes(5), Duration.ofHours(4), maxRetainedMatches);
+    }
+
+    @Test
+    void testFinishedMatchIsKeptAsRecentResult() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.updateScore("Mexico", "Canada", new ImmutablePair<>(0, 5));
+        scoreBoard.finishMatch("Mexico", "Canada");
+        Assertions.assertTrue(testBoard.isEmpty());
+        Assertions.assertEquals("There are no ongoing matches at the moment", scoreBoard.getSummary());
+        Assertions.assertEquals("1. Mexico 0 - Canada 5", scoreBoard.getRecentResults());
+    }
+
+    @Test
+    void testGetRecentResultsMostRecentFirst() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.startMatch("Spain", "Brazil");
+        scoreBoard.finishMatch("Mexico", "Canada");
+        clock.addAndGet(1000);
+        scoreBoard.finishMatch("Spain", "Brazil");
+        String expectedResults = "1. Spain 0 - Brazil 0" + System.lineSeparator() + "2. Mexico 0 - Canada 0";
+        Assertions.assertEquals(expectedResults, scoreBoard.getRecentResults());
+    }
+
+    @Test
+    void testGetRecentResultsNoFinishedMatches() {
+        Assertions.assertEquals("There are no recently finished matches", scoreBoard.getRecentResults());
+    }
+
+    @Test
+    void testFinishedMatchExpiresAfterRetention() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.finishMatch("Mexico", "Canada");
+        clock.addAndGet(Duration.ofMinutes(5).toMillis() - 1000);
+        Assertions.assertEquals("1. Mexico 0 - Canada 0", scoreBoard.getRecentResults());
+        clock.addAndGet(1000);
+        Assertions.assertEquals("There are no recently finished matches", scoreBoard.getRecentResults());
+    }
+
+    @Test
+    void testStaleLiveMatchExpires() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        clock.addAndGet(Duration.ofHours(1).toMillis());
+        scoreBoard.startMatch("Spain", "Brazil");
+        clock.addAndGet(Duration.ofHours(3).toMillis());
+        Assertions.assertEquals("1. Spain 0 - Brazil 0", scoreBoard.getSummary());
+        Assertions.assertEquals(1, testBoard.size());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.finishMatch("Mexico", "Canada"));
+        Assertions.assertEquals(
+                "These teams are not currently playing each other", exception.getMessage());
+    }
+
+    @Test
+    void testTeamsCanPlayAgainAfterExpiry() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        clock.addAndGet(Duration.ofHours(4).toMillis());
+        scoreBoard.startMatch("Mexico", "Brazil");
+        Assertions.assertEquals("1. Mexico 0 - Brazil 0", scoreBoard.getSummary());
+    }
+
+    @Test
+    void testTeamsCanPlayAgainAfterFinish() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.updateScore("Mexico", "Canada", new ImmutablePair<>(1, 0));
+        scoreBoard.finishMatch("Mexico", "Canada");
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.finishMatch("Mexico", "Canada");
+        Assertions.assertEquals("1. Mexico 0 - Canada 0", scoreBoard.getRecentResults());
+    }
+
+    @Test
+    void testRetentionCapEvictsOldestFinishedMatchFirst() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 2);
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.startMatch("Spain", "Brazil");
+        scoreBoard.finishMatch("Spain", "Brazil");
+        scoreBoard.startMatch("Germany", "France");
+        Assertions.assertEquals("There are no recently finished matches", scoreBoard.getRecentResults());
+        Assertions.assertEquals(2, testBoard.size());
+    }
+
+    @Test
+    void testRetentionCapEvictsLongestRunningLiveMatch() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 2);
+        scoreBoard.startMatch("Mexico", "Canada");
+        clock.addAndGet(1000);
+        scoreBoard.startMatch("Spain", "Brazil");
+        clock.addAndGet(1000);
+        scoreBoard.startMatch("Germany", "France");
+        String expectedSummary = "1. Germany 0 - France 0" + System.lineSeparator() + "2. Spain 0 - Brazil 0";
+        Assertions.assertEquals(expectedSummary, scoreBoard.getSummary());
+    }
+
+    @Test
+    void testSummaryOrderingUnchangedWithRecentResults() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        scoreBoard = createLifecycleBoard(clock, 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        clock.addAndGet(1000);
+        scoreBoard.startMatch("Spain", "Brazil");
+        clock.addAndGet(1000);
+        scoreBoard.startMatch("Germany", "France");
+        scoreBoard.updateScore("Mexico", "Canada", new ImmutablePair<>(1, 0));
+        scoreBoard.finishMatch("Spain", "Brazil");
+        String expectedSummary = "1. Mexico 1 - Canada 0" + System.lineSeparator() + "2. Germany 0 - France 0";
+        Assertions.assertEquals(expectedSummary, scoreBoard.getSummary());
+    }
+
+    @Test
+    void testSummaryAfterLastMatchFinishes() {
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.finishMatch("Mexico", "Canada");
+        Assertions.assertEquals("There are no ongoing matches at the moment", scoreBoard.getSummary());
+    }
+
+    // Tests for VERSION
+    @Test
+    void testMutationsIncrementVersion() {
+        Assertions.assertEquals(0, scoreBoard.getVersion());
+        Assertions.assertEquals(1, scoreBoard.startMatch("Mexico", "Canada"));
+        Assertions.assertEquals(2, scoreBoard.updateScore("Mexico", "Canada", new ImmutablePair<>(0, 1)));
+        Assertions.assertEquals(3, scoreBoard.finishMatch("Mexico", "Canada"));
+        Assertions.assertEquals(3, scoreBoard.getVersion());
+    }
+
+    @Test
+    void testFailedMutationDoesNotIncrementVersion() {
+        scoreBoard.startMatch("Mexico", "Canada");
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startMatch("Mexico", "Hungary"));
+        Assertions.assertEquals(1, scoreBoard.getVersion());
+    }
+
+    @Test
+    void testGetSummaryWithReachedVersion() throws Exception {
+        long version = scoreBoard.startMatch("Mexico", "Canada");
+        Assertions.assertEquals("1. Mexico 0 - Canada 0", scoreBoard.getSummary(version, Duration.ZERO));
+    }
+
+    @Test
+    void testGetSummaryWithUnreachedVersion() {
+        TimeoutException exception = assertThrows(TimeoutException.class,
+                () -> scoreBoard.getSummary(1, Duration.ofMillis(10)));
+        Assertions.assertEquals("The board has not reached version 1 in time", exception.getMessage());
+    }
+
+    @Test
+    void testWaitingReaderDoesNotBlockMutations() throws Exception {
+        CompletableFuture<String> summary = CompletableFuture.supplyAsync(() -> {
+            try {
+                return scoreBoard.getSummary(1, Duration.ofSeconds(10));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        scoreBoard.startMatch("Mexico", "Canada");
+        Assertions.assertEquals("1. Mexico 0 - Canada 0", summary.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBoardStaysConsistentWhenTransportThrows() {
+        AtomicLong clock = new AtomicLong(1732549027000L);
+        AtomicBoolean failing = new AtomicBoolean();
+        List<Long> publishedVersions = new ArrayList<>();
+        ReplicationTransport transport = new InProcessReplicationTransport() {
+            @Override
+            public synchronized void publish(final BoardMutation mutation) {
+                publishedVersions.add(mutation.getVersion());
+                if (failing.get()) {
+                    throw new IllegalStateException("Broken transport");
+                }
+            }
+        };
+        scoreBoard = new ScoreBoard(testBoard, clock::get,
+                Duration.ofMinutes(5), Duration.ofHours(4), 10, transport, false);
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.startMatch("Spain", "Brazil");
+        scoreBoard.finishMatch("Mexico", "Canada");
+        scoreBoard.finishMatch("Spain", "Brazil");
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        failing.set(true);
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> scoreBoard.startMatch("Germany", "France"));
+        Assertions.assertEquals("Broken transport", exception.getMessage());
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L, 5L), publishedVersions);
+        Assertions.assertEquals(7, scoreBoard.getVersion());
+        Assertions.assertEquals("1. Germany 0 - France 0", scoreBoard.getSummary());
+        Assertions.assertEquals("There are no recently finished matches", scoreBoard.getRecentResults());
+    }
+
+    // Tests for TIME SOURCE
+    @Test
+    void testStartTimeFromTimeSource() {
+        scoreBoard = new ScoreBoard(testBoard, () -> 1732549027000L,
+                Duration.ofMinutes(5), Duration.ofHours(4), 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        testBoard.stream()
+                .findAny()
+                .ifPresentOrElse(
+                        match -> Assertions.assertEquals(1732549027000L, match.getStartTime()),
+                        () -> Assertions.fail("There were no matches on the board"));
+    }
+
+    @Test
+    void testReadsOfEmptyBoardDoNotReadTimeSource() {
+        AtomicLong clockReads = new AtomicLong();
+        scoreBoard = new ScoreBoard(testBoard, clockReads::incrementAndGet,
+                Duration.ofMinutes(5), Duration.ofHours(4), 10);
+        long readsAtCreation = clockReads.get();
+        scoreBoard.getSummary();
+        scoreBoard.getRecentResults();
+        Assertions.assertEquals(readsAtCreation, clockReads.get());
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.getSummary();
+        Assertions.assertEquals(readsAtCreation + 2, clockReads.get());
+    }
+
+    @Test
+    void testMatchesStartedInSameMillisecondOrderedByStartSequence() {
+        scoreBoard = new ScoreBoard(testBoard, () -> 1732549027000L,
+                Duration.ofMinutes(5), Duration.ofHours(4), 10);
+        scoreBoard.startMatch("Mexico", "Canada");
+        scoreBoard.startMatch("Spain", "Brazil");
+        scoreBoard.startMatch("Germany", "France");
+        String expectedSummary = "1. Germany 0 - France 0" +
+                System.lineSeparator() +
+                "2. Spain 0 - Brazil 0" +
+                System.lineSeparator() +
+                "3. Mexico 0 - Canada 0";
+        Assertions.assertEquals(expectedSummary, scoreBoard.getSummary());
+    }
+
+    @Test
+    void testStartSequenceIsReproducedOnReplay() {
+        InProcessReplicationTransport transport = new InProcessReplicationTransport();
+        ScoreBoard leader = ScoreBoard.leader(transport, () -> 1732549027000L,
+                Duration.ofMinutes(5), Duration.ofHours(4), 10);
+        ScoreBoard follower = ScoreBoard.follower(transport);
+        // Started in lexicographic order, so the team names alone would order them the other way round
+        leader.startMatch("Germany", "France");
+        leader.startMatch("Mexico", "Canada");
+        leader.startMatch("Spain", "Brazil");
+        String expectedSummary = "1. Spain 0 - Brazil 0" +
+                System.lineSeparator() +
+                "2. Mexico 0 - Canada 0" +
+                System.lineSeparator() +
+                "3. Germany 0 - France 0";
+        Assertions.assertEquals(expectedSummary, leader.getSummary());
+        Assertions.assertEquals(expectedSummary, follower.getSummary());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.coding.exercise;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class TimerWheelTest {
+    private final TimerWheel<String> timerWheel = new TimerWheel<>(1000, 8, 0);
+
+    @Test
+    void testItemExpiresAtDeadline() {
+        timerWheel.schedule("Hungary", 3000);
+        Assertions.assertTrue(timerWheel.advance(2999).isEmpty());
+        Assertions.assertEquals(List.of("Hungary"), timerWheel.advance(3000));
+        Assertions.assertEquals(0, timerWheel.size());
+    }
+
+    @Test
+    void testDeadlineIsRoundedUpToTheNextTick() {
+        timerWheel.schedule("Hungary", 2500);
+        Assertions.assertTrue(timerWheel.advance(2999).isEmpty());
+        Assertions.assertEquals(List.of("Hungary"), timerWheel.advance(3000));
+    }
+
+    @Test
+    void testDeadlineBeyondOneRevolution() {
+        timerWheel.schedule("Hungary", 11000);
+        Assertions.assertTrue(timerWheel.advance(3000).isEmpty());
+        Assertions.assertTrue(timerWheel.advance(10000).isEmpty());
+        Assertions.assertEquals(List.of("Hungary"), timerWheel.advance(11000));
+    }
+
+    @Test
+    void testAdvanceMoreThanOneRevolution() {
+        timerWheel.schedule("Hungary", 2000);
+        timerWheel.schedule("Norway", 50000);
+        Assertions.assertEquals(List.of("Hungary"), timerWheel.advance(20000));
+        Assertions.assertEquals(List.of("Norway"), timerWheel.advance(50000));
+    }
+
+    @Test
+    void testDeadlineInThePastExpiresOnNextTick() {
+        timerWheel.advance(5000);
+        timerWheel.schedule("Hungary", 1000);
+        Assertions.assertEquals(List.of("Hungary"), timerWheel.advance(6000));
+    }
+
+    @Test
+    void testCancel() {
+        timerWheel.schedule("Hungary", 2000);
+        timerWheel.cancel("Hungary");
+        Assertions.assertTrue(timerWheel.advance(2000).isEmpty());
+        Assertions.assertEquals(0, timerWheel.size());
+    }
+
+    @Test
+    void testReschedule() {
+        timerWheel.schedule("Hungary", 2000);
+        timerWheel.schedule("Hungary", 4000);
+        Assertions.assertEquals(1, timerWheel.size());
+        Assertions.assertTrue(timerWheel.advance(3000).isEmpty());
+        Assertions.assertEquals(List.of("Hungary"), timerWheel.advance(4000));
+    }
+
+    @Test
+    void testNextTickTime() {
+        Assertions.assertEquals(Long.MAX_VALUE, timerWheel.nextTickTime());
+        timerWheel.schedule("Hungary", 5000);
+        Assertions.assertEquals(1000, timerWheel.nextTickTime());
+        timerWheel.advance(2500);
+        Assertions.assertEquals(3000, timerWheel.nextTickTime());
+    }
+}
\ No newline at end of file